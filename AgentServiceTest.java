@@ -2,9 +2,11 @@ package uyun.ant.lss.service;
 
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -117,6 +119,25 @@ class AgentServiceTest {
       /*断言*/
       assertThat(agents).hasSize(1);
     }
+
+    @Test
+    @DisplayName("上级链存在环，返回环之前的上级列表，容错处理")
+    void shouldReturnParentAgentListWhenSupervisorChainHasCycle() {
+      /*准备数据*/
+      Agent level1Agent = createMockAgent();
+      Agent level2Agent = createMockAgent();
+      Agent level3Agent = createMockAgent();
+      Os level1Os = createMockOs(level1Agent, level3Agent);
+      Os level2Os = createMockOs(level2Agent, level1Agent);
+      Os level3Os = createMockOs(level3Agent, level2Agent);
+
+      /*测试*/
+      List<Agent> agents =
+          assertTimeoutPreemptively(Duration.ofSeconds(1), () -> agentService.listParent(level3Agent));
+
+      /*断言*/
+      assertThat(agents).containsExactly(level2Agent, level1Agent);
+    }
   }
 
   private Agent createMockAgent() {
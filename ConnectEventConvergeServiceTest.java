@@ -95,6 +95,54 @@ class ConnectEventConvergeServiceTest {
     assertThat(result).isEqualTo(report2);
   }
 
+  @Test
+  @DisplayName("测试上报了两条事件用例3，其他通道断开不影响仍连接的通道")
+  void report2EventCase3() {
+    /*准备数据*/
+    ConnectEvent store = mockConnectEvent(ConnectEventStateEnum.connected, 1L, "ch1");
+    ConnectEvent report1 = mockConnectEvent(ConnectEventStateEnum.connected, 2L, "ch2");
+    ConnectEvent report2 = mockConnectEvent(ConnectEventStateEnum.disconnected, 3L, "ch2");
+
+    /*测试*/
+    ConnectEvent result = connectEventConvergeService.converge(Arrays.asList(store, report1, report2));
+
+    /*断言*/
+    assertThat(result).isEqualTo(store);
+  }
+
+  @Test
+  @DisplayName("测试事件乱序上报，收敛结果与按eventTime排序一致")
+  void reportEventsOutOfOrder() {
+    /*准备数据*/
+    ConnectEvent store = mockConnectEvent(ConnectEventStateEnum.connected, 1L, "ch1");
+    ConnectEvent report1 = mockConnectEvent(ConnectEventStateEnum.disconnected, 2L, "ch1");
+    ConnectEvent report2 = mockConnectEvent(ConnectEventStateEnum.connected, 3L, "ch2");
+
+    /*测试*/
+    ConnectEvent result1 = connectEventConvergeService.converge(Arrays.asList(report2, store, report1));
+    ConnectEvent result2 = connectEventConvergeService.converge(Arrays.asList(store, report2, report1));
+    ConnectEvent result3 = connectEventConvergeService.converge(Arrays.asList(report1, report2, store));
+
+    /*断言*/
+    assertThat(result1).isEqualTo(report2);
+    assertThat(result2).isEqualTo(report2);
+    assertThat(result3).isEqualTo(report2);
+  }
+
+  @Test
+  @DisplayName("测试迟到的断开事件早于存储事件，保持存储事件")
+  void reportLateDisconnectedEvent() {
+    /*准备数据*/
+    ConnectEvent store = mockConnectEvent(ConnectEventStateEnum.connected, 5L, "ch1");
+    ConnectEvent report = mockConnectEvent(ConnectEventStateEnum.disconnected, 2L, "ch1");
+
+    /*测试*/
+    ConnectEvent result = connectEventConvergeService.converge(Arrays.asList(store, report));
+
+    /*断言*/
+    assertThat(result).isEqualTo(store);
+  }
+
   private ConnectEvent mockConnectEvent(ConnectEventStateEnum state, long eventTime, String channel) {
     return new ConnectEvent(state.name(), eventTime, channel, null);
   }
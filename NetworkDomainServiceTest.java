@@ -4,6 +4,8 @@ import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -117,6 +119,32 @@ class NetworkDomainServiceTest {
     verifyNetworkDomainSetTo(defaultNetworkDomain.getId(), networkDomainAccessor);
   }
 
+  @Test
+  @DisplayName("其他租户使用相同网络域Code，按该租户查询网络域")
+  void shouldQueryByTenantWhenTenantDiffers() {
+    /*准备数据*/
+    NetworkDomain networkDomain = prepareNetworkDomain();
+    networkDomainService.handleAgentBelongs(
+        mockNetworkDomainAccessor(networkDomain.getCode(), networkDomain.getTenantId()),
+        mockLevel1Agent()
+    );
+    clearInvocations(networkDomainDao);
+
+    /*打桩*/
+    String otherTenantId = randomAlphabetic(32);
+    NetworkDomainAccessor networkDomainAccessor =
+        mockNetworkDomainAccessor(networkDomain.getCode(), otherTenantId);
+
+    /*测试*/
+    Assertions.assertThrows(Exception.class, () -> {
+      networkDomainService.handleAgentBelongs(networkDomainAccessor, mockLevel1Agent());
+    });
+
+    /*断言*/
+    verify(networkDomainDao, atLeastOnce()).get(argThat(argument ->
+        argument != null && otherTenantId.equals(argument.getTenantId())));
+  }
+
   private void verifyNetworkDomainSetTo(String networkDomainId, NetworkDomainAccessor accessor) {
     ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
     verify(accessor).overrideNetworkDomain(captor.capture());